@@ -1,4 +1,10 @@
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
@@ -23,6 +29,7 @@ import java.util.*;
  * - Construct an HTTP request (method, headers, query params, optional body)
  * - Execute the request using Java's built-in HttpClient
  * - Print a human-readable summary of the response
+ * - Optionally stream-format or filter JSON bodies (--pretty, --select)
  *
  * This class intentionally avoids frameworks or heavy abstractions to keep
  * behavior transparent and easy to reason about during pair programming.
@@ -48,7 +55,8 @@ public class JavaRestCli {
         String data;                    // Inline JSON payload
         Path dataFile;                  // JSON payload from file
         int timeoutSeconds = 10;        // Request timeout
-        boolean pretty = false;         // Reserved for future JSON pretty-printing
+        boolean pretty = false;         // Stream-format JSON response bodies
+        String[] select;                // Optional path filter (e.g. data[].id)
     }
 
     /**
@@ -61,6 +69,10 @@ public class JavaRestCli {
         try {
             Args a = parseArgs(args);
             run(a);
+        } catch (MalformedJsonException e) {
+            // The command line was fine; the server sent bad JSON
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
         } catch (Exception e) {
             System.err.println("Error: " + e.getMessage());
             printUsage();
@@ -77,6 +89,9 @@ public class JavaRestCli {
      * 3. Build URI and HttpRequest
      * 4. Execute request synchronously
      * 5. Print response summary and body
+     *
+     * When --pretty or --select is given, the body is consumed as a stream and
+     * formatted as it arrives instead of being buffered into a single String.
      */
     private static void run(Args a) throws IOException, InterruptedException {
         Map<String, String> headers = parseHeaders(a.header);
@@ -116,14 +131,44 @@ public class JavaRestCli {
         }
 
         HttpRequest req = rb.build();
-        HttpResponse<String> resp = client.send(req, HttpResponse.BodyHandlers.ofString());
 
+        if (!a.pretty && a.select == null) {
+            HttpResponse<String> resp = client.send(req, HttpResponse.BodyHandlers.ofString());
+            printSummary(req, uri, resp);
+            System.out.println(resp.body());
+            return;
+        }
+
+        HttpResponse<InputStream> resp = client.send(req, HttpResponse.BodyHandlers.ofInputStream());
+        printSummary(req, uri, resp);
+
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        try (InputStream body = resp.body()) {
+            // Non-JSON bodies (e.g. HTML error pages) are passed through untouched
+            String contentType = resp.headers().firstValue("content-type").orElse("");
+            if (!contentType.isEmpty() && !contentType.toLowerCase(Locale.ROOT).contains("json")) {
+                if (a.select != null)
+                    System.err.println("Note: --select ignored for non-JSON content type " + contentType);
+                body.transferTo(System.out);
+                System.out.println();
+                return;
+            }
+            Reader in = new InputStreamReader(body, StandardCharsets.UTF_8);
+            new JsonStreamFormatter(new JsonLexer(in, out), out, a.pretty, a.select).format();
+        } finally {
+            out.flush();
+        }
+    }
+
+    /**
+     * Prints the request line and the response headers of interest.
+     */
+    private static void printSummary(HttpRequest req, URI uri, HttpResponse<?> resp) {
         // Basic, readable output suitable for debugging
         System.out.println(req.method() + " " + uri);
         System.out.println("Status: " + resp.statusCode());
         resp.headers().firstValue("content-type").ifPresent(v -> System.out.println("Content-Type: " + v));
         resp.headers().firstValue("x-request-id").ifPresent(v -> System.out.println("x-request-id: " + v));
-        System.out.println(resp.body());
     }
 
     /**
@@ -140,6 +185,7 @@ public class JavaRestCli {
      * --data-file <path>
      * --timeout <seconds>
      * --pretty
+     * --select <path>    (e.g. data[].id, [].name, items[].*)
      */
     private static Args parseArgs(String[] argv) {
         Args a = new Args();
@@ -158,6 +204,7 @@ public class JavaRestCli {
                 case "--data-file" -> a.dataFile = Path.of(requireValue(argv, ++i, "--data-file"));
                 case "--timeout" -> a.timeoutSeconds = Integer.parseInt(requireValue(argv, ++i, "--timeout"));
                 case "--pretty" -> a.pretty = true;
+                case "--select" -> a.select = parseSelector(requireValue(argv, ++i, "--select"));
                 case "--help", "-h" -> {
                     printUsage();
                     System.exit(0);
@@ -195,6 +242,11 @@ public class JavaRestCli {
         System.err.println("""
                 Usage:
                   java JavaRestCli --base-url <url> --path <path> [options]
+
+                Output options:
+                  --pretty           Indent JSON responses as they stream in
+                  --select <path>    Print only matching values, one per line
+                                     (e.g. data[].id, [].name, items[].*)
                 """);
     }
 
@@ -260,4 +312,409 @@ public class JavaRestCli {
         }
         return sb.toString();
     }
+
+    /**
+     * Parses a --select path into segments.
+     *
+     * Syntax:
+     * - Dot-separated object keys (e.g. data.items)
+     * - "[]" after a key (or on its own) matches every element of an array
+     * - "*" matches any object key
+     *
+     * Example: "data[].id" becomes ["data", "[]", "id"].
+     */
+    private static String[] parseSelector(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String part : path.split("\\.", -1)) {
+            String name = part;
+            int arrays = 0;
+            while (name.endsWith("[]")) {
+                name = name.substring(0, name.length() - 2);
+                arrays++;
+            }
+            if (name.contains("[") || name.contains("]") || (name.isEmpty() && arrays == 0))
+                throw new IllegalArgumentException("Invalid --select path: " + path);
+            if (!name.isEmpty()) segments.add(name);
+            for (int k = 0; k < arrays; k++) segments.add("[]");
+        }
+        return segments.toArray(new String[0]);
+    }
+
+    /**
+     * JsonLexer is a pull tokenizer over a character stream.
+     *
+     * It never materializes string values: callers either copy a string
+     * straight to an output Writer or skip it, so memory use is bounded by the
+     * read buffer regardless of response size. Only object keys and scalar
+     * literals (numbers, true/false/null) are buffered.
+     *
+     * Pending output is flushed whenever the read buffer runs dry, i.e. right
+     * before the lexer may block waiting on the network. That keeps output
+     * appearing as soon as it can be produced without flushing per character.
+     */
+    private static final class JsonLexer {
+        enum Token { BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, COLON, COMMA, STRING, LITERAL, EOF }
+
+        private final Reader in;
+        private final Writer pending;   // Flushed before each blocking read
+        private final char[] buf = new char[8192];
+        private int pos;
+        private int limit;
+        private long offset;            // Characters consumed, for error messages
+        private final StringBuilder text = new StringBuilder();
+        private String literal;         // Text of the most recent LITERAL token
+
+        JsonLexer(Reader in, Writer pending) {
+            this.in = in;
+            this.pending = pending;
+        }
+
+        /**
+         * Returns the next token. For STRING the opening quote has been
+         * consumed and the caller must follow up with copyString, readString
+         * or skipString. For LITERAL the value is available via literal().
+         */
+        Token next() throws IOException {
+            int c = read();
+            while (c == ' ' || c == '\t' || c == '\n' || c == '\r') c = read();
+
+            switch (c) {
+                case -1: return Token.EOF;
+                case '{': return Token.BEGIN_OBJECT;
+                case '}': return Token.END_OBJECT;
+                case '[': return Token.BEGIN_ARRAY;
+                case ']': return Token.END_ARRAY;
+                case ':': return Token.COLON;
+                case ',': return Token.COMMA;
+                case '"': return Token.STRING;
+                default:
+                    readLiteral(c);
+                    return Token.LITERAL;
+            }
+        }
+
+        /**
+         * Returns the text of the most recent LITERAL token.
+         */
+        String literal() {
+            return literal;
+        }
+
+        /**
+         * Writes the current string to out, including quotes and escapes as-is.
+         */
+        void copyString(Writer out) throws IOException {
+            out.write('"');
+            scanString(out, null);
+            out.write('"');
+        }
+
+        /**
+         * Returns the raw (still escaped) contents of the current string.
+         */
+        String readString() throws IOException {
+            text.setLength(0);
+            scanString(null, text);
+            return text.toString();
+        }
+
+        /**
+         * Consumes the current string without keeping it.
+         */
+        void skipString() throws IOException {
+            scanString(null, null);
+        }
+
+        MalformedJsonException error(String message) {
+            return new MalformedJsonException("Malformed JSON at offset " + offset + ": " + message);
+        }
+
+        /**
+         * Scans to the closing quote. Runs of plain characters are handed to
+         * out/sb straight from the read buffer in one call each; only quotes,
+         * escapes and control characters are handled one at a time.
+         */
+        private void scanString(Writer out, StringBuilder sb) throws IOException {
+            while (true) {
+                if (pos == limit && !fill()) throw error("unterminated string");
+
+                int start = pos;
+                while (pos < limit) {
+                    char c = buf[pos];
+                    if (c == '"' || c == '\\' || c < 0x20) break;
+                    pos++;
+                }
+                int run = pos - start;
+                if (run > 0) {
+                    offset += run;
+                    if (out != null) out.write(buf, start, run);
+                    if (sb != null) sb.append(buf, start, run);
+                }
+                if (pos == limit) continue;
+
+                int c = read();
+                if (c == '"') return;
+                if (c < 0x20) throw error("control character in string");
+
+                int e = read();
+                if (e == -1) throw error("unterminated string");
+                if ("\"\\/bfnrtu".indexOf(e) < 0) throw error("invalid escape \\" + (char) e);
+                if (out != null) {
+                    out.write('\\');
+                    out.write(e);
+                }
+                if (sb != null) sb.append('\\').append((char) e);
+            }
+        }
+
+        private void readLiteral(int first) throws IOException {
+            text.setLength(0);
+            int c = first;
+            while (c != -1 && isLiteralChar(c)) {
+                text.append((char) c);
+                c = peek();
+                if (c != -1 && isLiteralChar(c)) read();
+            }
+            if (text.length() == 0) throw error("unexpected character '" + (char) first + "'");
+
+            literal = text.toString();
+            boolean keyword = literal.equals("true") || literal.equals("false") || literal.equals("null");
+            if (!keyword && !isNumber(text)) throw error("invalid literal " + literal);
+        }
+
+        /**
+         * Checks the JSON number grammar: -?(0|[1-9]digits)(.digits)?([eE][+-]?digits)?
+         */
+        private static boolean isNumber(CharSequence t) {
+            int i = 0;
+            int n = t.length();
+            if (i < n && t.charAt(i) == '-') i++;
+            if (i == n) return false;
+            if (t.charAt(i) == '0') i++;
+            else {
+                int digits = skipDigits(t, i);
+                if (digits == i) return false;
+                i = digits;
+            }
+            if (i < n && t.charAt(i) == '.') {
+                int digits = skipDigits(t, ++i);
+                if (digits == i) return false;
+                i = digits;
+            }
+            if (i < n && (t.charAt(i) == 'e' || t.charAt(i) == 'E')) {
+                i++;
+                if (i < n && (t.charAt(i) == '+' || t.charAt(i) == '-')) i++;
+                int digits = skipDigits(t, i);
+                if (digits == i) return false;
+                i = digits;
+            }
+            return i == n;
+        }
+
+        private static int skipDigits(CharSequence t, int i) {
+            while (i < t.length() && t.charAt(i) >= '0' && t.charAt(i) <= '9') i++;
+            return i;
+        }
+
+        private static boolean isLiteralChar(int c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '+' || c == '.';
+        }
+
+        private int peek() throws IOException {
+            if (pos == limit && !fill()) return -1;
+            return buf[pos];
+        }
+
+        private int read() throws IOException {
+            if (pos == limit && !fill()) return -1;
+            offset++;
+            return buf[pos++];
+        }
+
+        private boolean fill() throws IOException {
+            pending.flush();
+            int n = in.read(buf);
+            if (n <= 0) return false;
+            pos = 0;
+            limit = n;
+            return true;
+        }
+    }
+
+    /**
+     * JsonStreamFormatter re-emits a JSON document token by token.
+     *
+     * Nesting is tracked with an explicit stack of Frames rather than
+     * recursion, so deeply nested input cannot overflow the call stack and
+     * memory grows only with nesting depth, never with document size.
+     *
+     * Modes:
+     * - No selector: the whole document is printed (indented when pretty)
+     * - Selector: only values whose path matches are printed, one per line;
+     *   everything else is scanned and discarded without being stored
+     */
+    private static final class JsonStreamFormatter {
+        private static final String INDENT = "  ";
+
+        /**
+         * One open object or array. key holds the raw name of the member
+         * currently being read when the frame is an object.
+         */
+        private static final class Frame {
+            final boolean array;
+            int count;
+            String key;
+
+            Frame(boolean array) {
+                this.array = array;
+            }
+        }
+
+        private final JsonLexer lexer;
+        private final Writer out;
+        private final boolean pretty;
+        private final String[] selector;
+        private final Deque<Frame> stack = new ArrayDeque<>();
+        private int emitDepth = -1;     // Stack depth where the current printed value began, -1 if none
+
+        JsonStreamFormatter(JsonLexer lexer, Writer out, boolean pretty, String[] selector) {
+            this.lexer = lexer;
+            this.out = out;
+            this.pretty = pretty;
+            this.selector = selector;
+        }
+
+        /**
+         * Consumes the entire input, writing formatted or selected output.
+         * An empty body produces no output.
+         */
+        void format() throws IOException {
+            try {
+                formatDocument();
+            } catch (MalformedJsonException e) {
+                // Finish the partially printed line so the error starts on its own
+                if (emitDepth >= 0) out.write('\n');
+                throw e;
+            }
+        }
+
+        private void formatDocument() throws IOException {
+            JsonLexer.Token t = lexer.next();
+            if (t == JsonLexer.Token.EOF) return;
+            startValue(t);
+
+            while (!stack.isEmpty()) {
+                Frame f = stack.peek();
+                t = lexer.next();
+                if (t == (f.array ? JsonLexer.Token.END_ARRAY : JsonLexer.Token.END_OBJECT)) {
+                    endContainer();
+                    continue;
+                }
+                if (f.count > 0) {
+                    expect(t, JsonLexer.Token.COMMA);
+                    t = lexer.next();
+                }
+                if (!f.array) {
+                    expect(t, JsonLexer.Token.STRING);
+                    f.key = lexer.readString();
+                    expect(lexer.next(), JsonLexer.Token.COLON);
+                    t = lexer.next();
+                }
+                f.count++;
+                startValue(t);
+            }
+
+            expect(lexer.next(), JsonLexer.Token.EOF);
+        }
+
+        private void startValue(JsonLexer.Token t) throws IOException {
+            boolean top = emitDepth < 0 && matchesSelector();
+            if (top) emitDepth = stack.size();
+            boolean emit = emitDepth >= 0;
+            if (emit && !top) writeMemberPrefix();
+
+            switch (t) {
+                case BEGIN_OBJECT, BEGIN_ARRAY -> {
+                    boolean array = t == JsonLexer.Token.BEGIN_ARRAY;
+                    if (emit) out.write(array ? '[' : '{');
+                    stack.push(new Frame(array));
+                    return;
+                }
+                case STRING -> {
+                    if (emit) lexer.copyString(out);
+                    else lexer.skipString();
+                }
+                case LITERAL -> {
+                    if (emit) out.write(lexer.literal());
+                }
+                default -> throw lexer.error("unexpected " + t);
+            }
+
+            if (top) endEmission();
+        }
+
+        private void endContainer() throws IOException {
+            Frame f = stack.pop();
+            if (emitDepth < 0) return;
+
+            if (pretty && f.count > 0) newline(stack.size() - emitDepth);
+            out.write(f.array ? ']' : '}');
+            if (stack.size() == emitDepth) endEmission();
+        }
+
+        /**
+         * Writes the separator, indentation and (for objects) the member name
+         * that precede a value nested inside the value being printed.
+         */
+        private void writeMemberPrefix() throws IOException {
+            Frame f = stack.peek();
+            if (f.count > 1) out.write(',');
+            if (pretty) newline(stack.size() - emitDepth);
+            if (!f.array) {
+                out.write('"');
+                out.write(f.key);
+                out.write(pretty ? "\": " : "\":");
+            }
+        }
+
+        private void endEmission() throws IOException {
+            out.write('\n');
+            emitDepth = -1;
+        }
+
+        private void newline(int depth) throws IOException {
+            out.write('\n');
+            for (int i = 0; i < depth; i++) out.write(INDENT);
+        }
+
+        /**
+         * Returns true when the value about to be read sits exactly at the
+         * selector path. Without a selector only the root value matches.
+         */
+        private boolean matchesSelector() {
+            if (selector == null) return stack.isEmpty();
+            if (stack.size() != selector.length) return false;
+            Iterator<Frame> frames = stack.descendingIterator();
+            for (String want : selector) {
+                Frame f = frames.next();
+                if (f.array ? !want.equals("[]") : !(want.equals("*") || want.equals(f.key))) return false;
+            }
+            return true;
+        }
+
+        private void expect(JsonLexer.Token actual, JsonLexer.Token expected) throws IOException {
+            if (actual != expected) throw lexer.error("expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Raised when a response body is not valid JSON. Kept distinct from
+     * argument errors so main can report it without printing usage.
+     */
+    private static final class MalformedJsonException extends IOException {
+        MalformedJsonException(String message) {
+            super(message);
+        }
+    }
 }